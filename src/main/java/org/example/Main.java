@@ -10,6 +10,7 @@ import org.example.schema.SchemaAnalyzer;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Map;
 
 public class Main {
     public static void main(String[] args) {
@@ -47,7 +48,7 @@ public class Main {
             
             // Initialize resolvers
             System.out.println("\nInitializing resolvers...");
-            ResolverFactory resolverFactory = new ResolverFactory();
+            ResolverFactory resolverFactory = new ResolverFactory(schemaReader);
             resolverFactory.configureResolvers(schemaReader);
             resolverFactory.initializeFromSchema(schemaReader);
             
@@ -65,6 +66,11 @@ public class Main {
                                   (resolverFactory.getResolverForType(apiTypeName) instanceof ApiResolver));
             }
             
+            // Metadata query
+            Map<String, Object> metadata = resolverFactory.getMetadataResolver().getMetadata();
+            System.out.println("\nMetadata: " + ((List<?>) metadata.get("types")).size() + " types, " +
+                              ((List<?>) metadata.get("relationships")).size() + " relationships");
+            
         } catch (Exception e) {
             System.err.println("Error processing GraphQL schema: " + e.getMessage());
             e.printStackTrace();
@@ -0,0 +1,245 @@
+package org.example.resolver;
+
+import graphql.language.*;
+import graphql.schema.DataFetcher;
+import lombok.extern.slf4j.Slf4j;
+import org.example.schema.DataSourceInfo;
+import org.example.schema.SchemaCatalog;
+import org.example.schema.TypeRelationship;
+import org.example.statistics.SourceStatistics;
+import org.example.statistics.StatisticsCatalog;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Collectors;
+
+/**
+ * Serves the Metadata query from the schema catalog and the statistics catalog.
+ * The schema-derived parts are built once. Each type keeps its own TypeInfo entry, which is
+ * replaced when that type's statistics are published, so a request never walks the schema.
+ */
+@Slf4j
+public class MetadataResolver {
+
+    // Types carrying @params are the domain roots (Marketing, Finance, ...) that group the namespaces
+    private static final String NAMESPACE_DIRECTIVE = "params";
+
+    private final SchemaCatalog schemaCatalog;
+    private final StatisticsCatalog statisticsCatalog;
+    private final Map<String, String> namespaceByType;
+    private final Map<String, Map<String, Object>> staticTypeInfo;
+    private final List<Map<String, Object>> namespaces;
+    private final List<Map<String, Object>> relationships;
+    private final List<Map<String, Object>> directives;
+    private final Map<String, Integer> typePositions;
+    private final AtomicReferenceArray<Map<String, Object>> typeInfos;
+    private final List<Map<String, Object>> types;
+
+    public MetadataResolver(SchemaCatalog schemaCatalog, StatisticsCatalog statisticsCatalog) {
+        this.schemaCatalog = schemaCatalog;
+        this.statisticsCatalog = statisticsCatalog;
+        this.namespaceByType = buildNamespaceIndex();
+        this.namespaces = buildNamespaces();
+        this.relationships = schemaCatalog.getRelationships().stream()
+                .map(MetadataResolver::toRelationshipInfo)
+                .collect(Collectors.toUnmodifiableList());
+        this.directives = buildDirectives();
+        this.staticTypeInfo = buildStaticTypeInfo();
+
+        this.typePositions = new HashMap<>();
+        this.typeInfos = new AtomicReferenceArray<>(staticTypeInfo.size());
+        staticTypeInfo.keySet().forEach(typeName -> {
+            int position = typePositions.size();
+            typePositions.put(typeName, position);
+            typeInfos.set(position, withStatistics(staticTypeInfo.get(typeName)));
+        });
+        this.types = new AbstractList<>() {
+            @Override
+            public Map<String, Object> get(int index) {
+                return typeInfos.get(index);
+            }
+
+            @Override
+            public int size() {
+                return typeInfos.length();
+            }
+        };
+
+        statisticsCatalog.addUpdateListener(this::refreshType);
+        log.info("Initialized MetadataResolver for {} types", staticTypeInfo.size());
+    }
+
+    /**
+     * Returns a GraphQL DataFetcher for the Query.metadata field
+     */
+    public DataFetcher<Map<String, Object>> getDataFetcher() {
+        return environment -> getMetadata();
+    }
+
+    public Map<String, Object> getMetadata() {
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("types", types);
+        metadata.put("namespaces", namespaces);
+        metadata.put("relationships", relationships);
+        metadata.put("directives", directives);
+        metadata.put("version", String.valueOf(statisticsCatalog.getVersion()));
+        metadata.put("lastUpdated", Objects.toString(statisticsCatalog.getLastUpdated(), null));
+        return Collections.unmodifiableMap(metadata);
+    }
+
+    /**
+     * Replaces the TypeInfo entry of a single type after its statistics were published
+     */
+    private void refreshType(String typeName) {
+        Integer position = typePositions.get(typeName);
+        if (position != null) {
+            typeInfos.set(position, withStatistics(staticTypeInfo.get(typeName)));
+        }
+    }
+
+    private Map<String, Object> withStatistics(Map<String, Object> typeInfo) {
+        String typeName = (String) typeInfo.get("name");
+        Optional<SourceStatistics> statistics = statisticsCatalog.getStatistics(typeName);
+
+        Map<String, Object> result = new HashMap<>(typeInfo);
+        result.put("recordCount", statistics.map(stats -> toInt(stats.getRecordCount())).orElse(null));
+        result.put("source", schemaCatalog.getDataSource(typeName)
+                .map(dataSource -> toSourceInfo(dataSource, statistics.orElse(null)))
+                .orElse(null));
+        return Collections.unmodifiableMap(result);
+    }
+
+    private Map<String, Map<String, Object>> buildStaticTypeInfo() {
+        Map<String, Map<String, Object>> result = new TreeMap<>();
+        schemaCatalog.getObjectTypes().keySet().forEach(typeName -> {
+            Map<String, Object> typeInfo = new HashMap<>();
+            typeInfo.put("name", typeName);
+            typeInfo.put("namespace", namespaceByType.get(typeName));
+            typeInfo.put("fields", schemaCatalog.getFields(typeName).stream()
+                    .map(this::toFieldInfo)
+                    .collect(Collectors.toUnmodifiableList()));
+            typeInfo.put("relationships", schemaCatalog.getRelationships(typeName).stream()
+                    .map(MetadataResolver::toRelationshipInfo)
+                    .collect(Collectors.toUnmodifiableList()));
+            result.put(typeName, typeInfo);
+        });
+        return result;
+    }
+
+    /**
+     * Breadth-first walk of the declared relationship graph from all namespace roots at once,
+     * so each type joins the namespace of its nearest root. Roots are seeded in sorted order,
+     * which makes ties between equally distant roots deterministic.
+     */
+    private Map<String, String> buildNamespaceIndex() {
+        Map<String, String> result = new HashMap<>();
+        Deque<String> queue = new ArrayDeque<>();
+        schemaCatalog.getTypesWithDirective(NAMESPACE_DIRECTIVE).stream()
+                .sorted()
+                .forEach(rootType -> {
+                    result.put(rootType, rootType);
+                    queue.add(rootType);
+                });
+
+        while (!queue.isEmpty()) {
+            String typeName = queue.poll();
+            String namespace = result.get(typeName);
+            schemaCatalog.getRelationships(typeName).stream()
+                    .filter(relationship -> !relationship.isInferred())
+                    .map(TypeRelationship::getTargetType)
+                    .filter(targetType -> schemaCatalog.getObjectType(targetType).isPresent())
+                    .filter(targetType -> !result.containsKey(targetType))
+                    .forEach(targetType -> {
+                        result.put(targetType, namespace);
+                        queue.add(targetType);
+                    });
+        }
+        return result;
+    }
+
+    private List<Map<String, Object>> buildNamespaces() {
+        Map<String, List<String>> typesByNamespace = namespaceByType.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue, TreeMap::new,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+
+        List<Map<String, Object>> result = new ArrayList<>();
+        typesByNamespace.forEach((namespace, types) -> {
+            Collections.sort(types);
+            Map<String, Object> namespaceInfo = new HashMap<>();
+            namespaceInfo.put("name", namespace);
+            namespaceInfo.put("types", List.copyOf(types));
+            namespaceInfo.put("description", null);
+            result.add(namespaceInfo);
+        });
+        return List.copyOf(result);
+    }
+
+    private List<Map<String, Object>> buildDirectives() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        new TreeMap<>(schemaCatalog.getObjectTypes()).forEach((typeName, type) ->
+                type.getDirectives().forEach(directive -> {
+                    Map<String, Object> directiveInfo = new HashMap<>();
+                    directiveInfo.put("typeName", typeName);
+                    directiveInfo.put("directive", directive.getName());
+                    directiveInfo.put("value", directive.getArguments().stream()
+                            .findFirst()
+                            .map(argument -> valueToString(argument.getValue()))
+                            .orElse(null));
+                    result.add(directiveInfo);
+                }));
+        return List.copyOf(result);
+    }
+
+    private Map<String, Object> toFieldInfo(FieldDefinition field) {
+        Type<?> type = field.getType();
+        Map<String, Object> fieldInfo = new HashMap<>();
+        fieldInfo.put("name", field.getName());
+        fieldInfo.put("type", AstPrinter.printAst(type));
+        fieldInfo.put("required", type instanceof NonNullType);
+        fieldInfo.put("isList", SchemaCatalog.isList(type));
+        fieldInfo.put("isScalar", schemaCatalog.getObjectType(SchemaCatalog.getBaseTypeName(type)).isEmpty());
+        fieldInfo.put("directives", field.getDirectives().stream()
+                .map(Directive::getName)
+                .collect(Collectors.toUnmodifiableList()));
+        return fieldInfo;
+    }
+
+    private static Map<String, Object> toRelationshipInfo(TypeRelationship relationship) {
+        Map<String, Object> relationshipInfo = new HashMap<>();
+        relationshipInfo.put("sourceType", relationship.getSourceType());
+        relationshipInfo.put("fieldName", relationship.getFieldName());
+        relationshipInfo.put("targetType", relationship.getTargetType());
+        relationshipInfo.put("isList", relationship.isList());
+        relationshipInfo.put("foreignKey", relationship.getForeignKey());
+        return relationshipInfo;
+    }
+
+    private static Map<String, Object> toSourceInfo(DataSourceInfo dataSource, SourceStatistics statistics) {
+        Map<String, Object> sourceInfo = new HashMap<>();
+        sourceInfo.put("type", dataSource.getType().name());
+        switch (dataSource.getType()) {
+            case API:
+                sourceInfo.put("url", dataSource.getSource());
+                break;
+            case FILE:
+            case DATABASE:
+                sourceInfo.put("path", dataSource.getSource());
+                break;
+        }
+        sourceInfo.put("lastUpdated", statistics == null ? null : Objects.toString(statistics.getLastUpdated(), null));
+        sourceInfo.put("recordCount", statistics == null ? null : toInt(statistics.getRecordCount()));
+        return sourceInfo;
+    }
+
+    private static String valueToString(Value<?> value) {
+        if (value instanceof StringValue) {
+            return ((StringValue) value).getValue();
+        }
+        return AstPrinter.printAst(value);
+    }
+
+    // GraphQL Int is 32-bit; larger counts are clamped rather than overflowing
+    private static int toInt(long count) {
+        return (int) Math.min(count, Integer.MAX_VALUE);
+    }
+}
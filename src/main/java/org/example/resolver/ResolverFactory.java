@@ -4,6 +4,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.example.schema.DataSourceInfo;
 import org.example.schema.DataSourceType;
 import org.example.schema.GraphQLSchemaReader;
+import org.example.statistics.StatisticsCatalog;
 
 import java.util.HashMap;
 import java.util.List;
@@ -18,11 +19,25 @@ public class ResolverFactory {
     private final Map<String, Resolver> typeResolverMap = new HashMap<>();
     private final ApiResolver apiResolver = new ApiResolver();
     private final DatabaseResolver databaseResolver = new DatabaseResolver();
+    private final GraphQLSchemaReader schemaReader;
+    private final StatisticsCatalog statisticsCatalog;
+    private final MetadataResolver metadataResolver;
+    
+    /**
+     * Statistics and metadata are tied to the reader's schema catalog and live as long as the factory,
+     * so re-initializing resolver mappings keeps every recorded statistic
+     */
+    public ResolverFactory(GraphQLSchemaReader schemaReader) {
+        this.schemaReader = schemaReader;
+        this.statisticsCatalog = new StatisticsCatalog(schemaReader.getCatalog());
+        this.metadataResolver = new MetadataResolver(schemaReader.getCatalog(), statisticsCatalog);
+    }
     
     /**
      * Configure resolvers with appropriate settings
      */
     public void configureResolvers(GraphQLSchemaReader schemaReader) {
+        requireSameSchema(schemaReader);
         log.info("Configuring resolvers based on schema information");
         
         // Configure API resolver
@@ -56,6 +71,7 @@ public class ResolverFactory {
      * Initialize type-to-resolver mapping from schema data sources
      */
     public void initializeFromSchema(GraphQLSchemaReader schemaReader) {
+        requireSameSchema(schemaReader);
         log.info("Initializing type-to-resolver mappings");
         
         for (DataSourceInfo dataSource : schemaReader.getDataSourceMapping().values()) {
@@ -94,4 +110,27 @@ public class ResolverFactory {
     public Map<String, Resolver> getAllResolvers() {
         return new HashMap<>(typeResolverMap);
     }
+    
+    /**
+     * Get the statistics catalog that data loads and refreshes report to
+     */
+    public StatisticsCatalog getStatisticsCatalog() {
+        return statisticsCatalog;
+    }
+    
+    /**
+     * Get the resolver serving the Metadata query
+     */
+    public MetadataResolver getMetadataResolver() {
+        return metadataResolver;
+    }
+    
+    /**
+     * Statistics and metadata are bound to the factory's schema, so a different schema is rejected
+     */
+    private void requireSameSchema(GraphQLSchemaReader schemaReader) {
+        if (schemaReader.getCatalog() != this.schemaReader.getCatalog()) {
+            throw new IllegalArgumentException("Schema reader does not match the schema this factory was created for");
+        }
+    }
 }
@@ -9,7 +9,6 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 public class GraphQLSchemaReader {
@@ -26,10 +25,14 @@ public class GraphQLSchemaReader {
     @Getter
     private final Map<String, DataSourceInfo> dataSourceMapping = new HashMap<>();
     
+    @Getter
+    private final SchemaCatalog catalog;
+    
     public GraphQLSchemaReader(String schemaContent) {
         parse(schemaContent);
         extractTypeDefinitions();
         extractDataSources();
+        catalog = SchemaCatalog.build(this);
     }
     
     public static GraphQLSchemaReader fromFile(Path schemaPath) throws IOException {
@@ -110,33 +113,18 @@ public class GraphQLSchemaReader {
     }
     
     public List<DataSourceInfo> getApiDataSources() {
-        return dataSourceMapping.values().stream()
-                .filter(info -> info.getType() == DataSourceType.API)
-                .collect(Collectors.toList());
+        return catalog.getDataSources(DataSourceType.API);
     }
     
     public List<DataSourceInfo> getFileDataSources() {
-        return dataSourceMapping.values().stream()
-                .filter(info -> info.getType() == DataSourceType.FILE)
-                .collect(Collectors.toList());
+        return catalog.getDataSources(DataSourceType.FILE);
     }
     
     public List<DataSourceInfo> getDatabaseDataSources() {
-        return dataSourceMapping.values().stream()
-                .filter(info -> info.getType() == DataSourceType.DATABASE)
-                .collect(Collectors.toList());
+        return catalog.getDataSources(DataSourceType.DATABASE);
     }
     
     public Map<String, List<FieldDefinition>> getObjectFields() {
-        Map<String, List<FieldDefinition>> result = new HashMap<>();
-        
-        typeDefinitions.values().stream()
-                .filter(type -> type instanceof ObjectTypeDefinition)
-                .forEach(type -> {
-                    ObjectTypeDefinition objectType = (ObjectTypeDefinition) type;
-                    result.put(objectType.getName(), objectType.getFieldDefinitions());
-                });
-        
-        return result;
+        return catalog.getObjectFields();
     }
 }
@@ -0,0 +1,329 @@
+package org.example.schema;
+
+import graphql.language.*;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable, pre-indexed view of a parsed schema.
+ * Built once per schema (per-type work runs in parallel) so that lookups by type,
+ * field, directive and data source are constant time, and the relationship graph,
+ * including foreign keys inferred from naming (customerId <-> customer), is shared
+ * by every consumer instead of being recomputed on each call.
+ */
+@Slf4j
+public class SchemaCatalog {
+
+    private static final String ID_SUFFIX = "Id";
+
+    @Getter
+    private final Map<String, TypeDefinition<?>> typeDefinitions;
+
+    @Getter
+    private final Map<String, ObjectTypeDefinition> objectTypes;
+
+    @Getter
+    private final Map<String, List<FieldDefinition>> objectFields;
+
+    @Getter
+    private final Map<String, DataSourceInfo> dataSourceMapping;
+
+    @Getter
+    private final List<TypeRelationship> relationships;
+
+    @Getter
+    private final Set<String> referencedTypes;
+
+    private final Map<String, Map<String, FieldDefinition>> fieldIndex;
+    private final Map<String, List<TypeRelationship>> outgoingRelationships;
+    private final Map<String, List<TypeRelationship>> incomingRelationships;
+    private final Map<String, List<String>> typesByDirective;
+    private final Map<String, List<String>> fieldsByDirective;
+    private final Map<DataSourceType, List<DataSourceInfo>> dataSourcesByType;
+    private final Map<String, List<String>> typesBySource;
+    private final Map<String, List<String>> typesByNameSuffix;
+
+    public SchemaCatalog(Map<String, TypeDefinition<?>> typeDefinitions, Map<String, DataSourceInfo> dataSourceMapping) {
+        this.typeDefinitions = Map.copyOf(typeDefinitions);
+        this.dataSourceMapping = Map.copyOf(dataSourceMapping);
+
+        this.objectTypes = typeDefinitions.values().stream()
+                .filter(type -> type instanceof ObjectTypeDefinition)
+                .map(type -> (ObjectTypeDefinition) type)
+                .collect(Collectors.toUnmodifiableMap(ObjectTypeDefinition::getName, Function.identity()));
+
+        this.objectFields = objectTypes.values().stream()
+                .collect(Collectors.toUnmodifiableMap(ObjectTypeDefinition::getName,
+                        type -> List.copyOf(type.getFieldDefinitions())));
+
+        this.fieldIndex = objectTypes.values().parallelStream()
+                .collect(Collectors.toUnmodifiableMap(ObjectTypeDefinition::getName, SchemaCatalog::indexFields));
+
+        this.typesByNameSuffix = objectTypes.keySet().stream()
+                .flatMap(typeName -> camelCaseSuffixes(typeName).stream()
+                        .map(suffix -> Map.entry(suffix, typeName)))
+                .collect(groupEntries());
+
+        // Foreign key inference looks at the fields of other types, so the field index must be complete first
+        this.outgoingRelationships = objectTypes.values().parallelStream()
+                .collect(Collectors.toUnmodifiableMap(ObjectTypeDefinition::getName, this::resolveRelationships));
+
+        this.relationships = outgoingRelationships.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toUnmodifiableList());
+
+        this.incomingRelationships = relationships.stream()
+                .collect(Collectors.collectingAndThen(
+                        Collectors.groupingBy(TypeRelationship::getTargetType,
+                                Collectors.toUnmodifiableList()),
+                        Map::copyOf));
+
+        this.referencedTypes = relationships.stream()
+                .filter(relationship -> !relationship.isInferred())
+                .filter(relationship -> !relationship.getTargetType().equals(relationship.getSourceType()))
+                .map(TypeRelationship::getTargetType)
+                .collect(Collectors.toUnmodifiableSet());
+
+        this.typesByDirective = objectTypes.values().stream()
+                .flatMap(type -> type.getDirectives().stream()
+                        .map(directive -> Map.entry(directive.getName(), type.getName())))
+                .collect(groupEntries());
+
+        this.fieldsByDirective = objectTypes.values().stream()
+                .flatMap(type -> type.getFieldDefinitions().stream()
+                        .flatMap(field -> field.getDirectives().stream()
+                                .map(directive -> Map.entry(directive.getName(),
+                                        type.getName() + "." + field.getName()))))
+                .collect(groupEntries());
+
+        Map<DataSourceType, List<DataSourceInfo>> byType = new EnumMap<>(DataSourceType.class);
+        for (DataSourceType sourceType : DataSourceType.values()) {
+            byType.put(sourceType, this.dataSourceMapping.values().stream()
+                    .filter(info -> info.getType() == sourceType)
+                    .collect(Collectors.toUnmodifiableList()));
+        }
+        this.dataSourcesByType = Collections.unmodifiableMap(byType);
+
+        this.typesBySource = this.dataSourceMapping.values().stream()
+                .map(info -> Map.entry(info.getSource(), info.getTypeName()))
+                .sorted(Map.Entry.comparingByValue())
+                .collect(groupEntries());
+
+        log.info("Built schema catalog with {} object types and {} relationships ({} inferred)",
+                objectTypes.size(), relationships.size(),
+                relationships.stream().filter(TypeRelationship::isInferred).count());
+    }
+
+    public static SchemaCatalog build(GraphQLSchemaReader schemaReader) {
+        return new SchemaCatalog(schemaReader.getTypeDefinitions(), schemaReader.getDataSourceMapping());
+    }
+
+    public Optional<ObjectTypeDefinition> getObjectType(String typeName) {
+        return Optional.ofNullable(objectTypes.get(typeName));
+    }
+
+    public List<FieldDefinition> getFields(String typeName) {
+        return objectFields.getOrDefault(typeName, List.of());
+    }
+
+    public Optional<FieldDefinition> getField(String typeName, String fieldName) {
+        return Optional.ofNullable(fieldIndex.getOrDefault(typeName, Map.of()).get(fieldName));
+    }
+
+    /**
+     * Relationships originating from the given type, declared and inferred
+     */
+    public List<TypeRelationship> getRelationships(String typeName) {
+        return outgoingRelationships.getOrDefault(typeName, List.of());
+    }
+
+    /**
+     * Relationships from any type that point at the given type
+     */
+    public List<TypeRelationship> getIncomingRelationships(String typeName) {
+        return incomingRelationships.getOrDefault(typeName, List.of());
+    }
+
+    public List<String> getTypesWithDirective(String directiveName) {
+        return typesByDirective.getOrDefault(directiveName, List.of());
+    }
+
+    /**
+     * Fields carrying the given directive, as "Type.field" coordinates
+     */
+    public List<String> getFieldsWithDirective(String directiveName) {
+        return fieldsByDirective.getOrDefault(directiveName, List.of());
+    }
+
+    public Optional<DataSourceInfo> getDataSource(String typeName) {
+        return Optional.ofNullable(dataSourceMapping.get(typeName));
+    }
+
+    public List<DataSourceInfo> getDataSources(DataSourceType sourceType) {
+        return dataSourcesByType.get(sourceType);
+    }
+
+    /**
+     * Types backed by the given source, sorted by name; several types may share one source
+     */
+    public List<String> getTypesForSource(String source) {
+        return typesBySource.getOrDefault(source, List.of());
+    }
+
+    private static Map<String, FieldDefinition> indexFields(ObjectTypeDefinition type) {
+        Map<String, FieldDefinition> fields = new LinkedHashMap<>();
+        type.getFieldDefinitions().forEach(field -> fields.put(field.getName(), field));
+        return Collections.unmodifiableMap(fields);
+    }
+
+    private List<TypeRelationship> resolveRelationships(ObjectTypeDefinition type) {
+        String typeName = type.getName();
+        Map<String, FieldDefinition> fields = fieldIndex.get(typeName);
+        List<TypeRelationship> result = new ArrayList<>();
+
+        for (FieldDefinition field : type.getFieldDefinitions()) {
+            String fieldName = field.getName();
+            String referencedType = getBaseTypeName(field.getType());
+
+            if (typeDefinitions.containsKey(referencedType)) {
+                boolean list = isList(field.getType());
+                String foreignKey = list ? null : findKeyOnSource(fields, fieldName);
+                boolean keyOnTarget = foreignKey == null;
+                if (keyOnTarget) {
+                    // One-to-many, or a one-to-one back-reference such as metrics: MarketingCampaignMetrics
+                    foreignKey = findKeyOnTarget(typeName, referencedType);
+                }
+                result.add(new TypeRelationship(typeName, fieldName, referencedType, list,
+                        foreignKey, foreignKey != null && keyOnTarget, false));
+            } else if (isForeignKeyName(fieldName)) {
+                String stem = fieldName.substring(0, fieldName.length() - ID_SUFFIX.length());
+                FieldDefinition companion = fields.get(stem);
+                if (companion != null && typeDefinitions.containsKey(getBaseTypeName(companion.getType()))) {
+                    // Already covered by the declared edge of the companion field
+                    continue;
+                }
+                inferTargetType(typeName, stem).ifPresent(targetType ->
+                        result.add(new TypeRelationship(typeName, fieldName, targetType, false, fieldName, false, true)));
+            }
+        }
+
+        return List.copyOf(result);
+    }
+
+    /**
+     * customer: Customer is keyed by a sibling customerId field
+     */
+    private static String findKeyOnSource(Map<String, FieldDefinition> fields, String fieldName) {
+        String candidate = fieldName + ID_SUFFIX;
+        return fields.containsKey(candidate) ? candidate : null;
+    }
+
+    /**
+     * orders: [MarketingOrder] on MarketingCustomer is keyed by MarketingOrder.customerId
+     * (or marketingCustomerId); every camel-case suffix of the owning type name is tried, longest first.
+     */
+    private String findKeyOnTarget(String ownerType, String targetType) {
+        Map<String, FieldDefinition> targetFields = fieldIndex.get(targetType);
+        if (targetFields == null) {
+            return null;
+        }
+        for (String suffix : camelCaseSuffixes(ownerType)) {
+            String candidate = decapitalize(suffix) + ID_SUFFIX;
+            if (targetFields.containsKey(candidate)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * campaignId on MarketingCampaignMetrics resolves to the object type whose name ends in
+     * the camel-case word "Campaign" and shares the longest name prefix with the owner;
+     * ambiguous matches are dropped.
+     */
+    private Optional<String> inferTargetType(String ownerType, String stem) {
+        List<String> candidates = typesByNameSuffix.getOrDefault(capitalize(stem), List.of());
+
+        int bestScore = -1;
+        String best = null;
+        boolean ambiguous = false;
+        for (String candidate : candidates) {
+            if (candidate.equals(ownerType)) {
+                continue;
+            }
+            int score = commonPrefixLength(ownerType, candidate);
+            if (score > bestScore) {
+                bestScore = score;
+                best = candidate;
+                ambiguous = false;
+            } else if (score == bestScore) {
+                ambiguous = true;
+            }
+        }
+        return ambiguous ? Optional.empty() : Optional.ofNullable(best);
+    }
+
+    private static boolean isForeignKeyName(String fieldName) {
+        return fieldName.length() > ID_SUFFIX.length() && fieldName.endsWith(ID_SUFFIX);
+    }
+
+    public static String getBaseTypeName(Type<?> type) {
+        if (type instanceof ListType) {
+            return getBaseTypeName(((ListType) type).getType());
+        } else if (type instanceof NonNullType) {
+            return getBaseTypeName(((NonNullType) type).getType());
+        } else if (type instanceof TypeName) {
+            return ((TypeName) type).getName();
+        }
+        return "";
+    }
+
+    public static boolean isList(Type<?> type) {
+        if (type instanceof NonNullType) {
+            return isList(((NonNullType) type).getType());
+        }
+        return type instanceof ListType;
+    }
+
+    /**
+     * MarketingCampaign yields MarketingCampaign and Campaign, longest first
+     */
+    private static List<String> camelCaseSuffixes(String typeName) {
+        List<String> suffixes = new ArrayList<>();
+        for (int i = 0; i < typeName.length(); i++) {
+            if (Character.isUpperCase(typeName.charAt(i))) {
+                suffixes.add(typeName.substring(i));
+            }
+        }
+        return suffixes;
+    }
+
+    private static int commonPrefixLength(String a, String b) {
+        int length = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < length && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static String capitalize(String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+
+    private static String decapitalize(String value) {
+        return Character.toLowerCase(value.charAt(0)) + value.substring(1);
+    }
+
+    private static Collector<Map.Entry<String, String>, ?, Map<String, List<String>>> groupEntries() {
+        return Collectors.collectingAndThen(
+                Collectors.groupingBy(Map.Entry::getKey,
+                        Collectors.mapping(Map.Entry::getValue, Collectors.toUnmodifiableList())),
+                Map::copyOf);
+    }
+}
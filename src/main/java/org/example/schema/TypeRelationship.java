@@ -0,0 +1,19 @@
+package org.example.schema;
+
+import lombok.Value;
+
+/**
+ * A directed edge in the schema relationship graph.
+ * Declared edges come from object-typed fields; inferred edges come from
+ * foreign key fields (e.g. customerId) that have no companion object field.
+ */
+@Value
+public class TypeRelationship {
+    private String sourceType;
+    private String fieldName;
+    private String targetType;
+    private boolean list;
+    private String foreignKey; // null when no key field could be matched
+    private boolean keyOnTarget; // foreignKey is a field of targetType rather than sourceType
+    private boolean inferred;
+}
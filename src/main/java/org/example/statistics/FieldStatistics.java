@@ -0,0 +1,105 @@
+package org.example.statistics;
+
+import lombok.Getter;
+
+/**
+ * Running statistics for a single field of a data source: value count, null count,
+ * distinct value estimate and min/max. Updated incrementally as rows are loaded.
+ */
+public class FieldStatistics {
+
+    @Getter
+    private final String fieldName;
+
+    private final HyperLogLog distinctValues = new HyperLogLog();
+    private long valueCount;
+    private long nullCount;
+    private Object minValue;
+    private Object maxValue;
+
+    public FieldStatistics(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public synchronized void record(Object value) {
+        valueCount++;
+        if (value == null) {
+            nullCount++;
+            return;
+        }
+
+        distinctValues.add(value);
+        if (minValue == null || compare(value, minValue) < 0) {
+            minValue = value;
+        }
+        if (maxValue == null || compare(value, maxValue) > 0) {
+            maxValue = value;
+        }
+    }
+
+    /**
+     * New statistics covering the values seen by both this and the other instance
+     */
+    public FieldStatistics merge(FieldStatistics other) {
+        FieldStatistics merged = new FieldStatistics(fieldName);
+        merged.absorb(this);
+        merged.absorb(other);
+        return merged;
+    }
+
+    private synchronized void absorb(FieldStatistics source) {
+        synchronized (source) {
+            valueCount += source.valueCount;
+            nullCount += source.nullCount;
+            distinctValues.merge(source.distinctValues);
+            if (source.minValue != null && (minValue == null || compare(source.minValue, minValue) < 0)) {
+                minValue = source.minValue;
+            }
+            if (source.maxValue != null && (maxValue == null || compare(source.maxValue, maxValue) > 0)) {
+                maxValue = source.maxValue;
+            }
+        }
+    }
+
+    public synchronized long getValueCount() {
+        return valueCount;
+    }
+
+    public synchronized long getNullCount() {
+        return nullCount;
+    }
+
+    public synchronized double getNullFraction() {
+        return valueCount == 0 ? 0 : (double) nullCount / valueCount;
+    }
+
+    public synchronized Object getMinValue() {
+        return minValue;
+    }
+
+    public synchronized Object getMaxValue() {
+        return maxValue;
+    }
+
+    /**
+     * Estimated number of distinct non-null values, never more than the non-null count
+     */
+    public synchronized long getDistinctCount() {
+        return Math.min(distinctValues.estimate(), valueCount - nullCount);
+    }
+
+    /**
+     * Numbers compare numerically and strings lexically; values of mismatched kinds
+     * are treated as equal so they never displace the current min/max.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object left, Object right) {
+        if (left instanceof Number && right instanceof Number) {
+            return Double.compare(((Number) left).doubleValue(), ((Number) right).doubleValue());
+        }
+        if (left instanceof Comparable && left.getClass() == right.getClass()) {
+            return ((Comparable) left).compareTo(right);
+        }
+        return 0;
+    }
+}
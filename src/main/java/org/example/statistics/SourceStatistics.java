@@ -0,0 +1,76 @@
+package org.example.statistics;
+
+import lombok.Getter;
+import org.example.schema.DataSourceInfo;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Row count, last update time and per-field statistics for the data behind one schema type.
+ * Instances are filled by {@link #record} before they are published to the {@link StatisticsCatalog};
+ * later loads are combined with {@link #merge} into a new instance rather than written in place.
+ */
+public class SourceStatistics {
+
+    @Getter
+    private final DataSourceInfo dataSource;
+
+    private final AtomicLong recordCount = new AtomicLong();
+    private final Map<String, FieldStatistics> fieldStatistics = new ConcurrentHashMap<>();
+    private volatile Instant lastUpdated;
+
+    public SourceStatistics(DataSourceInfo dataSource, Collection<String> fieldNames) {
+        this.dataSource = dataSource;
+        // Schema fields are tracked up front so rows that omit them count as nulls
+        fieldNames.forEach(fieldName -> fieldStatistics.put(fieldName, new FieldStatistics(fieldName)));
+    }
+
+    private SourceStatistics(DataSourceInfo dataSource, Map<String, FieldStatistics> fieldStatistics, long recordCount) {
+        this.dataSource = dataSource;
+        this.fieldStatistics.putAll(fieldStatistics);
+        this.recordCount.set(recordCount);
+    }
+
+    public void record(Map<String, Object> row) {
+        fieldStatistics.forEach((fieldName, statistics) -> statistics.record(row.get(fieldName)));
+        recordCount.incrementAndGet();
+    }
+
+    /**
+     * New statistics covering the rows recorded by both this and the other instance
+     */
+    public SourceStatistics merge(SourceStatistics other) {
+        Map<String, FieldStatistics> merged = new HashMap<>();
+        fieldStatistics.forEach((fieldName, statistics) -> merged.put(fieldName, other.getFieldStatistics(fieldName)
+                .map(statistics::merge)
+                .orElse(statistics)));
+        other.fieldStatistics.forEach(merged::putIfAbsent);
+        return new SourceStatistics(dataSource, merged, getRecordCount() + other.getRecordCount());
+    }
+
+    public void markUpdated(Instant updatedAt) {
+        this.lastUpdated = updatedAt;
+    }
+
+    public long getRecordCount() {
+        return recordCount.get();
+    }
+
+    public Instant getLastUpdated() {
+        return lastUpdated;
+    }
+
+    public Optional<FieldStatistics> getFieldStatistics(String fieldName) {
+        return Optional.ofNullable(fieldStatistics.get(fieldName));
+    }
+
+    public Map<String, FieldStatistics> getAllFieldStatistics() {
+        return Map.copyOf(fieldStatistics);
+    }
+}
@@ -0,0 +1,184 @@
+package org.example.statistics;
+
+import graphql.language.FieldDefinition;
+import lombok.extern.slf4j.Slf4j;
+import org.example.schema.SchemaCatalog;
+import org.example.schema.TypeRelationship;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Incrementally maintained statistics for every loaded data source.
+ * Loads and refreshes are summarized off to the side and then published per type, so record counts
+ * and cardinality estimates are read directly instead of being recomputed by scanning sources,
+ * and readers never observe a half-applied load.
+ */
+@Slf4j
+public class StatisticsCatalog {
+
+    // Equality selectivity assumed when a field has never been observed
+    private static final double DEFAULT_SELECTIVITY = 0.1;
+    private static final String ID_FIELD = "id";
+
+    private final SchemaCatalog schemaCatalog;
+    private final Map<String, SourceStatistics> sourceStatistics = new ConcurrentHashMap<>();
+    private final Map<String, Object> publishLocks = new ConcurrentHashMap<>();
+    private final List<Consumer<String>> updateListeners = new CopyOnWriteArrayList<>();
+    private final AtomicLong version = new AtomicLong();
+    private volatile Instant lastUpdated;
+
+    public StatisticsCatalog(SchemaCatalog schemaCatalog) {
+        this.schemaCatalog = schemaCatalog;
+    }
+
+    /**
+     * Append newly loaded rows to the statistics of a type
+     */
+    public void recordLoad(String typeName, Collection<Map<String, Object>> rows) {
+        requireKnownType(typeName);
+        SourceStatistics loaded = summarize(typeName, rows);
+        // Only the merge with the published statistics is serialized; the rows were summarized above
+        SourceStatistics statistics = publish(typeName, existing -> existing == null ? loaded : existing.merge(loaded));
+        log.info("Recorded {} loaded rows for type {} ({} total)", rows.size(), typeName, statistics.getRecordCount());
+    }
+
+    /**
+     * Replace the statistics of a type with those of a full reload of its source
+     */
+    public void recordRefresh(String typeName, Collection<Map<String, Object>> rows) {
+        requireKnownType(typeName);
+        SourceStatistics refreshed = summarize(typeName, rows);
+        publish(typeName, existing -> refreshed);
+        log.info("Refreshed statistics for type {} with {} rows", typeName, rows.size());
+    }
+
+    /**
+     * Register a callback invoked with the type name each time that type's statistics are published.
+     * Callbacks run while the type's publish lock is held, so they see updates of one type in order
+     * and should only do constant work.
+     */
+    public void addUpdateListener(Consumer<String> listener) {
+        updateListeners.add(listener);
+    }
+
+    public Optional<SourceStatistics> getStatistics(String typeName) {
+        return Optional.ofNullable(sourceStatistics.get(typeName));
+    }
+
+    public Optional<FieldStatistics> getFieldStatistics(String typeName, String fieldName) {
+        return getStatistics(typeName).flatMap(statistics -> statistics.getFieldStatistics(fieldName));
+    }
+
+    /**
+     * Monotonic counter bumped on every load or refresh, for consumers caching derived views
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    public Instant getLastUpdated() {
+        return lastUpdated;
+    }
+
+    public OptionalLong estimateRecordCount(String typeName) {
+        return getStatistics(typeName)
+                .map(statistics -> OptionalLong.of(statistics.getRecordCount()))
+                .orElse(OptionalLong.empty());
+    }
+
+    public OptionalLong estimateDistinctCount(String typeName, String fieldName) {
+        return getFieldStatistics(typeName, fieldName)
+                .map(statistics -> OptionalLong.of(statistics.getDistinctCount()))
+                .orElse(OptionalLong.empty());
+    }
+
+    /**
+     * Fraction of rows expected to match an equality predicate on the field
+     */
+    public double estimateSelectivity(String typeName, String fieldName) {
+        return getFieldStatistics(typeName, fieldName)
+                .filter(statistics -> statistics.getValueCount() > 0)
+                .map(statistics -> (1 - statistics.getNullFraction()) / Math.max(1, statistics.getDistinctCount()))
+                .orElse(DEFAULT_SELECTIVITY);
+    }
+
+    /**
+     * Estimated number of rows produced by following a relationship across all source rows,
+     * using |R| * |S| / max(V(R, a), V(S, b)) over the join key columns.
+     * When the key lives on the target (one-to-many, or a one-to-one back-reference) the owner's
+     * id joins that key; otherwise the owner's key joins the target's id.
+     */
+    public OptionalLong estimateJoinCardinality(TypeRelationship relationship) {
+        if (relationship.getForeignKey() == null) {
+            return OptionalLong.empty();
+        }
+
+        String sourceType = relationship.getSourceType();
+        String targetType = relationship.getTargetType();
+        String sourceKey = relationship.isKeyOnTarget() ? ID_FIELD : relationship.getForeignKey();
+        String targetKey = relationship.isKeyOnTarget() ? relationship.getForeignKey() : ID_FIELD;
+
+        OptionalLong sourceRows = estimateRecordCount(sourceType);
+        OptionalLong targetRows = estimateRecordCount(targetType);
+        if (sourceRows.isEmpty() || targetRows.isEmpty()) {
+            return OptionalLong.empty();
+        }
+
+        long distinctKeys = Math.max(
+                estimateDistinctCount(sourceType, sourceKey).orElse(sourceRows.getAsLong()),
+                estimateDistinctCount(targetType, targetKey).orElse(targetRows.getAsLong()));
+        if (distinctKeys == 0) {
+            return OptionalLong.of(0);
+        }
+        return OptionalLong.of(Math.round((double) sourceRows.getAsLong() * targetRows.getAsLong() / distinctKeys));
+    }
+
+    private void requireKnownType(String typeName) {
+        if (schemaCatalog.getObjectType(typeName).isEmpty()) {
+            throw new IllegalArgumentException("Unknown type for statistics: " + typeName);
+        }
+    }
+
+    private SourceStatistics createStatistics(String typeName) {
+        // Object-typed fields hold nested records rather than column values
+        Set<String> relationshipFields = schemaCatalog.getRelationships(typeName).stream()
+                .filter(relationship -> !relationship.isInferred())
+                .filter(relationship -> schemaCatalog.getObjectType(relationship.getTargetType()).isPresent())
+                .map(TypeRelationship::getFieldName)
+                .collect(Collectors.toSet());
+
+        List<String> fieldNames = schemaCatalog.getFields(typeName).stream()
+                .map(FieldDefinition::getName)
+                .filter(fieldName -> !relationshipFields.contains(fieldName))
+                .collect(Collectors.toList());
+
+        return new SourceStatistics(schemaCatalog.getDataSource(typeName).orElse(null), fieldNames);
+    }
+
+    private SourceStatistics summarize(String typeName, Collection<Map<String, Object>> rows) {
+        SourceStatistics statistics = createStatistics(typeName);
+        rows.forEach(statistics::record);
+        return statistics;
+    }
+
+    private SourceStatistics publish(String typeName, UnaryOperator<SourceStatistics> update) {
+        synchronized (publishLocks.computeIfAbsent(typeName, name -> new Object())) {
+            SourceStatistics statistics = update.apply(sourceStatistics.get(typeName));
+            Instant now = Instant.now();
+            statistics.markUpdated(now);
+            sourceStatistics.put(typeName, statistics);
+            // Bumped only once the entry is visible, so readers keyed on the version never see stale statistics
+            lastUpdated = now;
+            version.incrementAndGet();
+            updateListeners.forEach(listener -> listener.accept(typeName));
+            return statistics;
+        }
+    }
+}
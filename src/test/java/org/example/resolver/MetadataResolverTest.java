@@ -0,0 +1,76 @@
+package org.example.resolver;
+
+import org.example.schema.GraphQLSchemaReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetadataResolverTest {
+
+    private GraphQLSchemaReader schemaReader;
+    private ResolverFactory resolverFactory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        schemaReader = GraphQLSchemaReader.fromFile(Path.of("schema.graphql"));
+        resolverFactory = new ResolverFactory(schemaReader);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> typeInfo(Map<String, Object> metadata, String typeName) {
+        return ((List<Map<String, Object>>) metadata.get("types")).stream()
+                .filter(type -> type.get("name").equals(typeName))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    void nestedTypesJoinTheirRootNamespace() {
+        Map<String, Object> metadata = resolverFactory.getMetadataResolver().getMetadata();
+
+        assertEquals("Marketing", typeInfo(metadata, "MarketingOrderItem").get("namespace"));
+        assertEquals("Marketing", typeInfo(metadata, "MarketingEventAttendee").get("namespace"));
+        assertEquals("Marketing", typeInfo(metadata, "MarketingCampaignMetrics").get("namespace"));
+        // Reachable from Analytics too, but Marketing is the nearer root
+        assertEquals("Marketing", typeInfo(metadata, "MarketingCustomer").get("namespace"));
+    }
+
+    @Test
+    void loadReplacesOnlyTheLoadedTypeEntry() {
+        MetadataResolver metadataResolver = resolverFactory.getMetadataResolver();
+        Map<String, Object> before = metadataResolver.getMetadata();
+        Map<String, Object> leadBefore = typeInfo(before, "MarketingLead");
+        Map<String, Object> orderBefore = typeInfo(before, "MarketingOrder");
+        assertNull(leadBefore.get("recordCount"));
+
+        resolverFactory.getStatisticsCatalog().recordLoad("MarketingLead", List.of(Map.of("id", "1")));
+        Map<String, Object> after = metadataResolver.getMetadata();
+
+        assertEquals(1, typeInfo(after, "MarketingLead").get("recordCount"));
+        assertNotSame(leadBefore, typeInfo(after, "MarketingLead"));
+        assertSame(orderBefore, typeInfo(after, "MarketingOrder"));
+        assertEquals("1", after.get("version"));
+    }
+
+    @Test
+    void reinitializingKeepsStatistics() {
+        resolverFactory.getStatisticsCatalog().recordLoad("MarketingLead", List.of(Map.of("id", "1")));
+        resolverFactory.initializeFromSchema(schemaReader);
+
+        assertEquals(1, resolverFactory.getStatisticsCatalog().estimateRecordCount("MarketingLead").getAsLong());
+    }
+
+    @Test
+    void rejectsADifferentSchemaReader() throws IOException {
+        GraphQLSchemaReader otherReader = GraphQLSchemaReader.fromFile(Path.of("schema.graphql"));
+
+        assertThrows(IllegalArgumentException.class, () -> resolverFactory.initializeFromSchema(otherReader));
+        assertThrows(IllegalArgumentException.class, () -> resolverFactory.configureResolvers(otherReader));
+    }
+}
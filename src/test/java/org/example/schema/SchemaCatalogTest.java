@@ -0,0 +1,118 @@
+package org.example.schema;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaCatalogTest {
+
+    private static SchemaCatalog catalog;
+
+    @BeforeAll
+    static void loadSchema() throws IOException {
+        catalog = GraphQLSchemaReader.fromFile(Path.of("schema.graphql")).getCatalog();
+    }
+
+    private static TypeRelationship relationship(String sourceType, String fieldName) {
+        return catalog.getRelationships(sourceType).stream()
+                .filter(relationship -> relationship.getFieldName().equals(fieldName))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No relationship " + sourceType + "." + fieldName));
+    }
+
+    @Test
+    void singularFieldIsKeyedBySiblingField() {
+        TypeRelationship relationship = relationship("MarketingOrder", "customer");
+
+        assertEquals("MarketingCustomer", relationship.getTargetType());
+        assertEquals("customerId", relationship.getForeignKey());
+        assertFalse(relationship.isList());
+        assertFalse(relationship.isKeyOnTarget());
+        assertFalse(relationship.isInferred());
+    }
+
+    @Test
+    void listFieldIsKeyedByTargetField() {
+        TypeRelationship relationship = relationship("MarketingCustomer", "orders");
+
+        assertEquals("MarketingOrder", relationship.getTargetType());
+        assertEquals("customerId", relationship.getForeignKey());
+        assertTrue(relationship.isList());
+        assertTrue(relationship.isKeyOnTarget());
+    }
+
+    @Test
+    void oneToOneBackReferenceIsKeyedByTargetField() {
+        TypeRelationship relationship = relationship("MarketingCampaign", "metrics");
+
+        assertEquals("MarketingCampaignMetrics", relationship.getTargetType());
+        assertEquals("campaignId", relationship.getForeignKey());
+        assertFalse(relationship.isList());
+        assertTrue(relationship.isKeyOnTarget());
+    }
+
+    @Test
+    void bareKeyFieldInfersRelationship() {
+        TypeRelationship relationship = relationship("MarketingCampaignMetrics", "campaignId");
+
+        assertEquals("MarketingCampaign", relationship.getTargetType());
+        assertEquals("campaignId", relationship.getForeignKey());
+        assertTrue(relationship.isInferred());
+    }
+
+    @Test
+    void keyFieldWithCompanionObjectFieldIsNotInferred() {
+        assertTrue(catalog.getRelationships("MarketingOrder").stream()
+                .noneMatch(relationship -> relationship.getFieldName().equals("customerId")));
+    }
+
+    @Test
+    void inferredEdgesAppearAsIncomingRelationships() {
+        assertTrue(catalog.getIncomingRelationships("MarketingCampaign").stream()
+                .anyMatch(relationship -> relationship.isInferred()
+                        && relationship.getSourceType().equals("MarketingCampaignMetrics")));
+    }
+
+    @Test
+    void ambiguousInferenceIsDropped() {
+        GraphQLSchemaReader reader = new GraphQLSchemaReader(
+                "type SalesAccount { id: ID! }\n" +
+                "type BillingAccount { id: ID! }\n" +
+                "type Invoice { id: ID! accountId: ID }\n");
+
+        assertTrue(reader.getCatalog().getRelationships("Invoice").isEmpty());
+    }
+
+    @Test
+    void inferenceMatchesWholeCamelCaseWords() {
+        GraphQLSchemaReader reader = new GraphQLSchemaReader(
+                "type Subaccount { id: ID! }\n" +
+                "type Invoice { id: ID! accountId: ID }\n");
+
+        assertTrue(reader.getCatalog().getRelationships("Invoice").isEmpty());
+    }
+
+    @Test
+    void indexesDirectivesAndSources() {
+        assertEquals(List.of("Employee"), catalog.getTypesWithDirective("db"));
+        assertTrue(catalog.getFieldsWithDirective("paginate").contains("HR.employees"));
+        assertEquals(List.of("MarketingOrder"), catalog.getTypesForSource("data/marketing.order.json"));
+        assertEquals(3, catalog.getDataSources(DataSourceType.API).size());
+        assertTrue(catalog.getField("MarketingLead", "score").isPresent());
+    }
+
+    @Test
+    void typesSharingASourceAreAllReturned() {
+        GraphQLSchemaReader reader = new GraphQLSchemaReader(
+                "directive @source(file: String) on OBJECT\n" +
+                "type Beta @source(file: \"shared.json\") { id: ID! }\n" +
+                "type Alpha @source(file: \"shared.json\") { id: ID! }\n");
+
+        assertEquals(List.of("Alpha", "Beta"), reader.getCatalog().getTypesForSource("shared.json"));
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldStatisticsTest {
+
+    @Test
+    void tracksNumericMinAndMaxAcrossNumberTypes() {
+        FieldStatistics statistics = new FieldStatistics("total");
+        statistics.record(5);
+        statistics.record(2.5);
+        statistics.record(10L);
+        statistics.record(null);
+
+        assertEquals(2.5, statistics.getMinValue());
+        assertEquals(10L, statistics.getMaxValue());
+    }
+
+    @Test
+    void tracksStringMinAndMax() {
+        FieldStatistics statistics = new FieldStatistics("name");
+        statistics.record("mango");
+        statistics.record("apple");
+        statistics.record("zucchini");
+
+        assertEquals("apple", statistics.getMinValue());
+        assertEquals("zucchini", statistics.getMaxValue());
+    }
+
+    @Test
+    void mismatchedKindsDoNotDisplaceMinAndMax() {
+        FieldStatistics statistics = new FieldStatistics("mixed");
+        statistics.record(3);
+        statistics.record("text");
+
+        assertEquals(3, statistics.getMinValue());
+        assertEquals(3, statistics.getMaxValue());
+    }
+
+    @Test
+    void computesNullFraction() {
+        FieldStatistics statistics = new FieldStatistics("email");
+        for (int i = 0; i < 8; i++) {
+            statistics.record(i % 4 == 0 ? null : "user" + i);
+        }
+
+        assertEquals(8, statistics.getValueCount());
+        assertEquals(2, statistics.getNullCount());
+        assertEquals(0.25, statistics.getNullFraction());
+    }
+
+    @Test
+    void distinctCountNeverExceedsNonNullCount() {
+        FieldStatistics statistics = new FieldStatistics("status");
+        statistics.record("active");
+        statistics.record("active");
+        statistics.record(null);
+
+        assertEquals(1, statistics.getDistinctCount());
+    }
+
+    @Test
+    void mergeCombinesBothSidesWithoutChangingThem() {
+        FieldStatistics left = new FieldStatistics("score");
+        left.record(5);
+        left.record(null);
+        FieldStatistics right = new FieldStatistics("score");
+        right.record(1);
+        right.record(9);
+
+        FieldStatistics merged = left.merge(right);
+
+        assertEquals(4, merged.getValueCount());
+        assertEquals(1, merged.getNullCount());
+        assertEquals(3, merged.getDistinctCount());
+        assertEquals(1, merged.getMinValue());
+        assertEquals(9, merged.getMaxValue());
+        assertEquals(2, left.getValueCount());
+        assertEquals(5, left.getMaxValue());
+    }
+
+    @Test
+    void emptyStatistics() {
+        FieldStatistics statistics = new FieldStatistics("unused");
+
+        assertEquals(0, statistics.getNullFraction());
+        assertEquals(0, statistics.getDistinctCount());
+        assertNull(statistics.getMinValue());
+        assertNull(statistics.getMaxValue());
+    }
+}
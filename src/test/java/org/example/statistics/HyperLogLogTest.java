@@ -0,0 +1,75 @@
+package org.example.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+
+    @Test
+    void estimatesLargeCardinalityWithinErrorBound() {
+        HyperLogLog sketch = new HyperLogLog();
+        int distinct = 100_000;
+        for (int i = 0; i < distinct; i++) {
+            sketch.add("value-" + i);
+        }
+
+        // Standard error at the default precision is ~1.6%; 5% is beyond three standard errors
+        double error = Math.abs(sketch.estimate() - distinct) / (double) distinct;
+        assertTrue(error < 0.05, "relative error was " + error);
+    }
+
+    @Test
+    void smallCardinalitiesUseLinearCounting() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 100; i++) {
+            sketch.add(i);
+        }
+
+        assertEquals(100, sketch.estimate(), 3);
+    }
+
+    @Test
+    void duplicatesAreNotCounted() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < 10; i++) {
+                sketch.add("dup-" + i);
+            }
+        }
+
+        assertEquals(10, sketch.estimate());
+    }
+
+    @Test
+    void nonAsciiValuesAreDistinguished() {
+        HyperLogLog sketch = new HyperLogLog();
+        String[] values = {"café", "cafe", "naïve", "naive", "日本", "日本語", "Ωmega", "omega"};
+        for (String value : values) {
+            sketch.add(value);
+        }
+
+        assertEquals(values.length, sketch.estimate());
+    }
+
+    @Test
+    void mergeMatchesSingleSketchOverUnion() {
+        HyperLogLog left = new HyperLogLog();
+        HyperLogLog right = new HyperLogLog();
+        HyperLogLog union = new HyperLogLog();
+        for (int i = 0; i < 20_000; i++) {
+            (i % 2 == 0 ? left : right).add(i);
+            union.add(i);
+        }
+
+        left.merge(right);
+        assertEquals(union.estimate(), left.estimate());
+    }
+
+    @Test
+    void rejectsInvalidPrecision() {
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(3));
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(19));
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(10).merge(new HyperLogLog(12)));
+    }
+}
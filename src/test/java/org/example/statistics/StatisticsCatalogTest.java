@@ -0,0 +1,125 @@
+package org.example.statistics;
+
+import org.example.schema.GraphQLSchemaReader;
+import org.example.schema.SchemaCatalog;
+import org.example.schema.TypeRelationship;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatisticsCatalogTest {
+
+    private static SchemaCatalog schemaCatalog;
+
+    @BeforeAll
+    static void loadSchema() throws IOException {
+        schemaCatalog = GraphQLSchemaReader.fromFile(Path.of("schema.graphql")).getCatalog();
+    }
+
+    private static List<Map<String, Object>> rows(int count, String keyField, int distinctKeys) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("id", "id-" + i);
+            row.put(keyField, "key-" + (i % distinctKeys));
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Test
+    void loadsAccumulateAndRefreshReplaces() {
+        StatisticsCatalog statistics = new StatisticsCatalog(schemaCatalog);
+        statistics.recordLoad("MarketingOrder", rows(10, "customerId", 5));
+        statistics.recordLoad("MarketingOrder", rows(5, "customerId", 5));
+        assertEquals(15, statistics.estimateRecordCount("MarketingOrder").getAsLong());
+
+        statistics.recordRefresh("MarketingOrder", rows(3, "customerId", 3));
+        assertEquals(3, statistics.estimateRecordCount("MarketingOrder").getAsLong());
+        assertEquals(3, statistics.getVersion());
+    }
+
+    @Test
+    void schemaFieldsMissingFromRowsCountAsNull() {
+        StatisticsCatalog statistics = new StatisticsCatalog(schemaCatalog);
+        statistics.recordLoad("MarketingOrder", rows(4, "customerId", 2));
+
+        assertEquals(1.0, statistics.getFieldStatistics("MarketingOrder", "status").orElseThrow().getNullFraction());
+        assertTrue(statistics.getFieldStatistics("MarketingOrder", "customer").isEmpty());
+        assertEquals(0.5, statistics.estimateSelectivity("MarketingOrder", "customerId"));
+    }
+
+    @Test
+    void loadsPublishNewStatisticsInsteadOfMutatingPublishedOnes() {
+        StatisticsCatalog statistics = new StatisticsCatalog(schemaCatalog);
+        statistics.recordLoad("MarketingOrder", rows(10, "customerId", 5));
+        SourceStatistics published = statistics.getStatistics("MarketingOrder").orElseThrow();
+
+        statistics.recordLoad("MarketingOrder", rows(5, "customerId", 5));
+
+        assertEquals(10, published.getRecordCount());
+        assertEquals(15, statistics.estimateRecordCount("MarketingOrder").getAsLong());
+    }
+
+    @Test
+    void notifiesListenersWithTheUpdatedType() {
+        StatisticsCatalog statistics = new StatisticsCatalog(schemaCatalog);
+        List<String> updated = new ArrayList<>();
+        statistics.addUpdateListener(updated::add);
+
+        statistics.recordLoad("MarketingOrder", rows(1, "customerId", 1));
+        statistics.recordRefresh("MarketingLead", rows(1, "campaignId", 1));
+
+        assertEquals(List.of("MarketingOrder", "MarketingLead"), updated);
+    }
+
+    @Test
+    void rejectsUnknownTypes() {
+        StatisticsCatalog statistics = new StatisticsCatalog(schemaCatalog);
+
+        assertThrows(IllegalArgumentException.class, () -> statistics.recordLoad("Nope", List.of()));
+        assertThrows(IllegalArgumentException.class, () -> statistics.recordRefresh("Nope", List.of()));
+        assertEquals(0, statistics.getVersion());
+    }
+
+    @Test
+    void estimatesJoinCardinalityForKeyOnTarget() {
+        StatisticsCatalog statistics = new StatisticsCatalog(schemaCatalog);
+        List<Map<String, Object>> campaigns = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            campaigns.add(Map.of("id", "key-" + i));
+        }
+        statistics.recordLoad("MarketingCampaign", campaigns);
+        statistics.recordLoad("MarketingCampaignMetrics", rows(10, "campaignId", 10));
+
+        TypeRelationship metrics = schemaCatalog.getRelationships("MarketingCampaign").stream()
+                .filter(relationship -> relationship.getFieldName().equals("metrics"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(10, statistics.estimateJoinCardinality(metrics).getAsLong());
+    }
+
+    @Test
+    void concurrentLoadsAreNotLost() throws InterruptedException {
+        StatisticsCatalog statistics = new StatisticsCatalog(schemaCatalog);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 50; i++) {
+                    statistics.recordLoad("MarketingLead", rows(10, "campaignId", 3));
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(8 * 50 * 10, statistics.estimateRecordCount("MarketingLead").getAsLong());
+    }
+}